@@ -0,0 +1,50 @@
+// Teste de carga para comparar a API MVC (porta 8081) com a API reativa (porta 8082).
+//
+//   k6 run -e BASE_URL=http://localhost:8081 load-test/clientes.js
+//   k6 run -e BASE_URL=http://localhost:8082 load-test/clientes.js
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+
+export const options = {
+	scenarios: {
+		consultas: {
+			executor: 'ramping-vus',
+			startVUs: 0,
+			stages: [
+				{ duration: '30s', target: 50 },
+				{ duration: '1m', target: 200 },
+				{ duration: '30s', target: 0 },
+			],
+		},
+	},
+	thresholds: {
+		http_req_failed: ['rate<0.01'],
+	},
+};
+
+function cpfAleatorio() {
+	return String(Math.floor(Math.random() * 1e11)).padStart(11, '0');
+}
+
+export default function () {
+
+	const cpf = cpfAleatorio();
+	const cadastro = http.post(`${BASE_URL}/api/v1/clientes`, JSON.stringify({
+		nome: `Cliente Carga ${cpf}`,
+		email: `carga.${cpf}.${__VU}.${__ITER}@teste.com`,
+		cpf: cpf,
+	}), { headers: { 'Content-Type': 'application/json' } });
+
+	check(cadastro, { 'cadastro 201': (r) => r.status === 201 });
+
+	const consulta = http.get(`${BASE_URL}/api/v1/clientes?page=0&size=25`);
+	check(consulta, { 'consulta 200': (r) => r.status === 200 });
+
+	if (cadastro.status === 201) {
+		const id = cadastro.json('id');
+		check(http.get(`${BASE_URL}/api/v1/clientes/${id}`), { 'obter 200': (r) => r.status === 200 });
+	}
+}
@@ -0,0 +1,38 @@
+package br.com.cotiinformatica.application;
+
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.cotiinformatica.domain.dtos.ObterClienteDto;
+import br.com.cotiinformatica.domain.interfaces.ClienteArquivamentoService;
+import jakarta.validation.constraints.Pattern;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/clientes-arquivados")
+@RequiredArgsConstructor
+public class ClienteArquivadoController {
+
+	private final ClienteArquivamentoService clienteArquivamentoService;
+	
+	@GetMapping("{id}")
+	public ResponseEntity<ObterClienteDto> getById(@PathVariable UUID id) {
+		var response = clienteArquivamentoService.obterArquivadoPorId(id);
+		return ResponseEntity.status(200).body(response);
+	}
+	
+	//Mesma regra dos DTOs: sem ela o CpfConverter aceitaria prefixos ("12345678" = "00012345678")
+	@GetMapping("cpf/{cpf}")
+	public ResponseEntity<ObterClienteDto> getByCpf(
+			@PathVariable @Pattern(regexp = "^[0-9]{11}$", message = "CPF deve ter 11 números.") String cpf) {
+		var response = clienteArquivamentoService.obterArquivadoPorCpf(cpf);
+		return ResponseEntity.status(200).body(response);
+	}
+}
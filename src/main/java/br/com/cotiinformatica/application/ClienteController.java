@@ -2,6 +2,7 @@ package br.com.cotiinformatica.application;
 
 import java.util.UUID;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,6 +23,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/clientes")
 @RequiredArgsConstructor
 public class ClienteController {
@@ -0,0 +1,85 @@
+package br.com.cotiinformatica.application;
+
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.cotiinformatica.domain.dtos.AlterarClienteDto;
+import br.com.cotiinformatica.domain.dtos.CriarClienteDto;
+import br.com.cotiinformatica.domain.dtos.ObterClienteDto;
+import br.com.cotiinformatica.domain.interfaces.ClienteReactiveService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/*
+ * Versão WebFlux do ClienteController, ativa somente no profile 'reactive'.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/clientes")
+@RequiredArgsConstructor
+public class ClienteReactiveController {
+
+	private final ClienteReactiveService clienteReactiveService;
+	
+	@PostMapping
+	public Mono<ResponseEntity<ObterClienteDto>> post(@RequestBody @Valid CriarClienteDto dto) {
+		return clienteReactiveService.criar(dto)
+				.map(response -> ResponseEntity.status(201).body(response));
+	}
+	
+	@PatchMapping
+	public Mono<ResponseEntity<ObterClienteDto>> patch(@RequestBody @Valid AlterarClienteDto dto) {
+		return clienteReactiveService.alterar(dto)
+				.map(response -> ResponseEntity.status(200).body(response));
+	}
+	
+	@DeleteMapping("{id}")
+	public Mono<ResponseEntity<ObterClienteDto>> delete(@PathVariable UUID id) {
+		return clienteReactiveService.inativar(id)
+				.map(response -> ResponseEntity.status(200).body(response));
+	}
+	
+	@GetMapping
+	public Mono<ResponseEntity<Page<ObterClienteDto>>> getAll(
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "25") int size,
+			@RequestParam(defaultValue = "nome") String sortBy,
+			@RequestParam(defaultValue = "asc") String direction
+			) {
+		return clienteReactiveService.consultarAtivos(page, size, sortBy, direction)
+				.map(response -> ResponseEntity.status(200).body(response));
+	}
+	
+	//Exclusivo da versão reativa: envia cada cliente assim que lido do banco,
+	//respeitando a demanda (backpressure) de quem está consumindo
+	@GetMapping(value = "fluxo", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<ObterClienteDto> getAllAsStream(
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "25") int size,
+			@RequestParam(defaultValue = "nome") String sortBy,
+			@RequestParam(defaultValue = "asc") String direction
+			) {
+		return clienteReactiveService.consultarAtivosEmFluxo(page, size, sortBy, direction);
+	}
+	
+	@GetMapping("{id}")
+	public Mono<ResponseEntity<ObterClienteDto>> getById(@PathVariable UUID id) {
+		return clienteReactiveService.obterAtivoPorId(id)
+				.map(response -> ResponseEntity.status(200).body(response));
+	}
+}
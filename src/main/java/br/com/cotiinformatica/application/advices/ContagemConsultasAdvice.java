@@ -0,0 +1,45 @@
+package br.com.cotiinformatica.application.advices;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+/*
+ * Informa nos headers da resposta quantos comandos SQL a requisição executou
+ * e quanto tempo eles levaram, logo antes de o corpo ser escrito.
+ * Desligado por padrão (clientes.consultas.headers-habilitados).
+ */
+@ControllerAdvice
+@Profile("!reactive")
+@ConditionalOnProperty(name = "clientes.consultas.headers-habilitados", havingValue = "true")
+public class ContagemConsultasAdvice implements ResponseBodyAdvice<Object> {
+
+	public static final String HEADER_QUANTIDADE = "X-Query-Count";
+	public static final String HEADER_TEMPO = "X-Query-Time-Ms";
+	
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+		
+		var contagem = QueryCountHolder.getGrandTotal();
+		
+		response.getHeaders().set(HEADER_QUANTIDADE, String.valueOf(contagem.getTotal()));
+		response.getHeaders().set(HEADER_TEMPO, String.valueOf(contagem.getTime()));
+		
+		return body;
+	}
+}
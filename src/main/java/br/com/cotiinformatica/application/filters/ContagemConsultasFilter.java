@@ -0,0 +1,47 @@
+package br.com.cotiinformatica.application.filters;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+/*
+ * Zera a contagem de comandos SQL no início de cada requisição e registra
+ * as requisições que executaram mais comandos do que o esperado.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class ContagemConsultasFilter extends OncePerRequestFilter {
+
+	@Value("${clientes.consultas.max-por-requisicao}")
+	private int maxPorRequisicao;
+	
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		
+		QueryCountHolder.clear();
+		try {
+			filterChain.doFilter(request, response);
+			
+			var contagem = QueryCountHolder.getGrandTotal();
+			
+			if(contagem.getTotal() > maxPorRequisicao)
+				log.warn("{} {} executou {} comandos SQL em {} ms.",
+						request.getMethod(), request.getRequestURI(), contagem.getTotal(), contagem.getTime());
+		}
+		finally {
+			QueryCountHolder.clear();
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package br.com.cotiinformatica.domain.converters;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/*
+ * Grava o CPF como número (bigint) e devolve sempre os 11 dígitos,
+ * recolocando os zeros à esquerda.
+ */
+@Converter
+public class CpfConverter implements AttributeConverter<String, Long> {
+
+	@Override
+	public Long convertToDatabaseColumn(String cpf) {
+		return cpf != null ? Long.valueOf(cpf) : null;
+	}
+
+	@Override
+	public String convertToEntityAttribute(Long cpf) {
+		return cpf != null ? String.format("%011d", cpf) : null;
+	}
+}
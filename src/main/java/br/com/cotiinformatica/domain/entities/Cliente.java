@@ -3,30 +3,44 @@ package br.com.cotiinformatica.domain.entities;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import br.com.cotiinformatica.domain.converters.CpfConverter;
+import br.com.cotiinformatica.domain.helpers.EmailHashHelper;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Data;
 
 @Entity
+@Table(
+		uniqueConstraints = @UniqueConstraint(name = "uk_cliente_email_hash", columnNames = "email_hash"),
+		indexes = @Index(name = "idx_cliente_ativo_inativacao", columnList = "ativo, data_hora_inativacao"))
 @Data
 public class Cliente {
 
 	@Id
+	@org.springframework.data.annotation.Id
 	@GeneratedValue(strategy = GenerationType.UUID)	
 	private UUID id;
 	
 	@Column(length = 150, nullable = false)
 	private String nome;
 	
-	@Column(length = 100, nullable = false, unique = true)
+	@Column(length = 100, nullable = false)
 	private String email;
 	
-	@Column(length = 11, nullable = false, unique = true)
+	@Column(length = 32, nullable = false)
+	private byte[] emailHash;
+	
+	@Convert(converter = CpfConverter.class)
+	@Column(nullable = false, unique = true)
 	private String cpf;
 	
 	@Temporal(TemporalType.TIMESTAMP)
@@ -35,6 +49,16 @@ public class Cliente {
 	@Temporal(TemporalType.TIMESTAMP)
 	private LocalDateTime dataHoraUltimaAlteracao;
 	
+	//Preenchida somente ao inativar; é a base do período de inatividade do arquivamento
+	@Temporal(TemporalType.TIMESTAMP)
+	private LocalDateTime dataHoraInativacao;
+	
 	@Column(nullable = false)
 	private Boolean ativo;
+	
+	//Mantém a chave de unicidade do email sempre em sincronia com o email
+	public void setEmail(String email) {
+		this.email = email;
+		this.emailHash = EmailHashHelper.gerarHash(email);
+	}
 }
@@ -0,0 +1,61 @@
+package br.com.cotiinformatica.domain.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import br.com.cotiinformatica.domain.converters.CpfConverter;
+import br.com.cotiinformatica.domain.helpers.EmailHashHelper;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+
+/*
+ * Clientes inativos movidos para fora da tabela 'cliente'
+ * pela rotina de arquivamento.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_cliente_arquivado_email_hash", columnNames = "email_hash"))
+@Data
+public class ClienteArquivado {
+
+	@Id
+	private UUID id;
+	
+	@Column(length = 150, nullable = false)
+	private String nome;
+	
+	@Column(length = 100, nullable = false)
+	private String email;
+	
+	@Column(length = 32, nullable = false)
+	private byte[] emailHash;
+	
+	@Convert(converter = CpfConverter.class)
+	@Column(nullable = false, unique = true)
+	private String cpf;
+	
+	@Temporal(TemporalType.TIMESTAMP)
+	private LocalDateTime dataHoraCriacao;
+	
+	@Temporal(TemporalType.TIMESTAMP)
+	private LocalDateTime dataHoraUltimaAlteracao;
+	
+	@Temporal(TemporalType.TIMESTAMP)
+	private LocalDateTime dataHoraInativacao;
+	
+	@Temporal(TemporalType.TIMESTAMP)
+	@Column(nullable = false)
+	private LocalDateTime dataHoraArquivamento;
+	
+	//Mantém a chave de unicidade do email sempre em sincronia com o email
+	public void setEmail(String email) {
+		this.email = email;
+		this.emailHash = EmailHashHelper.gerarHash(email);
+	}
+}
@@ -0,0 +1,47 @@
+package br.com.cotiinformatica.domain.helpers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/*
+ * Gera a chave de unicidade do email: SHA-256 (32 bytes) do email normalizado.
+ * A normalização remove apenas espaços (' ') das pontas e converte apenas as
+ * letras A-Z para minúsculas, para produzir exatamente o mesmo valor que a
+ * expressão usada nas migrações, independente do locale do banco:
+ * sha256(convert_to(translate(btrim(email, ' '), 'A..Z', 'a..z'), 'UTF8'))
+ */
+public final class EmailHashHelper {
+
+	private EmailHashHelper() {
+	}
+	
+	public static byte[] gerarHash(String email) {
+		
+		if(email == null) return null;
+		
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(normalizar(email).getBytes(StandardCharsets.UTF_8));
+		}
+		catch(NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	public static String normalizar(String email) {
+		
+		var inicio = 0;
+		var fim = email.length();
+		
+		while(inicio < fim && email.charAt(inicio) == ' ') inicio++;
+		while(fim > inicio && email.charAt(fim - 1) == ' ') fim--;
+		
+		var normalizado = email.substring(inicio, fim).toCharArray();
+		
+		for(var i = 0; i < normalizado.length; i++) {
+			if(normalizado[i] >= 'A' && normalizado[i] <= 'Z') normalizado[i] += 'a' - 'A';
+		}
+		
+		return new String(normalizado);
+	}
+}
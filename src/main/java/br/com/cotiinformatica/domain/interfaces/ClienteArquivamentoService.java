@@ -0,0 +1,18 @@
+package br.com.cotiinformatica.domain.interfaces;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import br.com.cotiinformatica.domain.dtos.ObterClienteDto;
+
+public interface ClienteArquivamentoService {
+
+	//Mover 1 lote de clientes inativos desde a data limite para a tabela de arquivo
+	int arquivarInativos(LocalDateTime limite, int tamanhoLote);
+	
+	//Obter 1 cliente arquivado através do ID
+	ObterClienteDto obterArquivadoPorId(UUID id);
+	
+	//Obter 1 cliente arquivado através do CPF
+	ObterClienteDto obterArquivadoPorCpf(String cpf);
+}
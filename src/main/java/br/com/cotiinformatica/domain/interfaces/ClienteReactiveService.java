@@ -0,0 +1,32 @@
+package br.com.cotiinformatica.domain.interfaces;
+
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+
+import br.com.cotiinformatica.domain.dtos.AlterarClienteDto;
+import br.com.cotiinformatica.domain.dtos.CriarClienteDto;
+import br.com.cotiinformatica.domain.dtos.ObterClienteDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ClienteReactiveService {
+
+	//Criar cliente
+	Mono<ObterClienteDto> criar(CriarClienteDto dto);
+	
+	//Alterar cliente
+	Mono<ObterClienteDto> alterar(AlterarClienteDto dto);
+	
+	//Inativar cliente
+	Mono<ObterClienteDto> inativar(UUID id);
+	
+	//Consultar clientes ativos com paginação
+	Mono<Page<ObterClienteDto>> consultarAtivos(int page, int size, String sortBy, String direction);
+	
+	//Consultar clientes ativos de uma página em forma de fluxo, sem a contagem total
+	Flux<ObterClienteDto> consultarAtivosEmFluxo(int page, int size, String sortBy, String direction);
+	
+	//Obter 1 cliente ativo através do ID
+	Mono<ObterClienteDto> obterAtivoPorId(UUID id);
+}
@@ -0,0 +1,59 @@
+package br.com.cotiinformatica.domain.services;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.cotiinformatica.domain.dtos.ObterClienteDto;
+import br.com.cotiinformatica.domain.interfaces.ClienteArquivamentoService;
+import br.com.cotiinformatica.infrastructure.repositories.ClienteArquivadoRepository;
+import br.com.cotiinformatica.infrastructure.repositories.ClienteRepository;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class ClienteArquivamentoServiceImpl implements ClienteArquivamentoService {
+
+	private final ClienteRepository clienteRepository;
+	private final ClienteArquivadoRepository clienteArquivadoRepository;
+
+	@Override
+	@Transactional
+	public int arquivarInativos(LocalDateTime limite, int tamanhoLote) {
+		
+		var ids = clienteRepository.findIdsInativosAntesDe(limite, tamanhoLote);
+		
+		if(ids.isEmpty()) return 0;
+		
+		//Copia e remove o lote na mesma transação
+		clienteArquivadoRepository.copiarDeClientes(ids);
+		clienteRepository.deleteAllByIdInBatch(ids);
+		
+		return ids.size();
+	}
+
+	@Override
+	public ObterClienteDto obterArquivadoPorId(UUID id) {
+		
+		var mapper = new ModelMapper();
+		
+		var cliente = clienteArquivadoRepository.findById(id).get();
+		
+		return mapper.map(cliente, ObterClienteDto.class);
+	}
+
+	@Override
+	public ObterClienteDto obterArquivadoPorCpf(String cpf) {
+		
+		var mapper = new ModelMapper();
+		
+		var cliente = clienteArquivadoRepository.findByCpf(cpf).get();
+		
+		return mapper.map(cliente, ObterClienteDto.class);
+	}
+}
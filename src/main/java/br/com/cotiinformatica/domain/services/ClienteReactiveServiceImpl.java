@@ -0,0 +1,181 @@
+package br.com.cotiinformatica.domain.services;
+
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import br.com.cotiinformatica.domain.converters.CpfConverter;
+import br.com.cotiinformatica.domain.dtos.AlterarClienteDto;
+import br.com.cotiinformatica.domain.dtos.CriarClienteDto;
+import br.com.cotiinformatica.domain.dtos.ObterClienteDto;
+import br.com.cotiinformatica.domain.entities.Cliente;
+import br.com.cotiinformatica.domain.helpers.EmailHashHelper;
+import br.com.cotiinformatica.domain.interfaces.ClienteReactiveService;
+import br.com.cotiinformatica.infrastructure.repositories.reactive.ClienteReactiveRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ClienteReactiveServiceImpl implements ClienteReactiveService {
+
+	private static final CpfConverter CPF_CONVERTER = new CpfConverter();
+	
+	private final ClienteReactiveRepository clienteReactiveRepository;
+
+	@Override
+	public Mono<ObterClienteDto> criar(CriarClienteDto dto) {
+		
+		var mapper = new ModelMapper();
+		
+		var cliente = mapper.map(dto, Cliente.class);
+		
+		cliente.setId(UUID.randomUUID());
+		cliente.setDataHoraCriacao(LocalDateTime.now());
+		cliente.setDataHoraUltimaAlteracao(LocalDateTime.now());
+		cliente.setAtivo(true);
+		
+		return verificarArquivados(dto.getCpf(), dto.getEmail())
+				.then(Mono.defer(() -> clienteReactiveRepository.insert(cliente)))
+				.map(criado -> mapper.map(criado, ObterClienteDto.class));
+	}
+
+	@Override
+	public Mono<ObterClienteDto> alterar(AlterarClienteDto dto) {
+		
+		var mapper = new ModelMapper();
+		
+		return obterPorId(dto.getId())
+				.flatMap(cliente -> verificarArquivados(
+							dto.getCpf() != null && !dto.getCpf().equals(cliente.getCpf()) ? dto.getCpf() : null,
+							dto.getEmail() != null && !dto.getEmail().equals(cliente.getEmail()) ? dto.getEmail() : null)
+						.thenReturn(cliente))
+				.flatMap(cliente -> {
+					
+					if(dto.getNome() != null) cliente.setNome(dto.getNome());
+					if(dto.getEmail() != null) cliente.setEmail(dto.getEmail());
+					if(dto.getCpf() != null) cliente.setCpf(dto.getCpf());
+					
+					cliente.setDataHoraUltimaAlteracao(LocalDateTime.now());
+					
+					return clienteReactiveRepository.update(cliente);
+				})
+				.map(cliente -> mapper.map(cliente, ObterClienteDto.class));
+	}
+
+	@Override
+	public Mono<ObterClienteDto> inativar(UUID id) {
+		
+		var mapper = new ModelMapper();
+		
+		return obterPorId(id)
+				.flatMap(cliente -> {
+					
+					cliente.setAtivo(false);
+					cliente.setDataHoraInativacao(LocalDateTime.now());
+					cliente.setDataHoraUltimaAlteracao(LocalDateTime.now());
+					
+					return clienteReactiveRepository.update(cliente);
+				})
+				.map(cliente -> mapper.map(cliente, ObterClienteDto.class));
+	}
+
+	@Override
+	public Mono<Page<ObterClienteDto>> consultarAtivos(int page, int size, String sortBy, String direction) {
+		
+		var pageable = getPageable(page, size, sortBy, direction);
+		
+		return consultarAtivos(pageable)
+				.collectList()
+				.<Page<ObterClienteDto>>flatMap(conteudo -> {
+					
+					//Mesma regra do PageableExecutionUtils (Spring Data JPA): a contagem só é feita
+					//quando a página está cheia ou quando veio vazia depois da primeira página
+					if(conteudo.size() < pageable.getPageSize() && (pageable.getOffset() == 0 || !conteudo.isEmpty()))
+						return Mono.just(new PageImpl<>(conteudo, pageable, pageable.getOffset() + conteudo.size()));
+					
+					return clienteReactiveRepository.countByAtivoTrue()
+							.map(total -> new PageImpl<>(conteudo, pageable, total));
+				});
+	}
+
+	@Override
+	public Flux<ObterClienteDto> consultarAtivosEmFluxo(int page, int size, String sortBy, String direction) {
+		return consultarAtivos(getPageable(page, size, sortBy, direction));
+	}
+
+	@Override
+	public Mono<ObterClienteDto> obterAtivoPorId(UUID id) {
+		
+		var mapper = new ModelMapper();
+		
+		return obterPorId(id)
+				.map(cliente -> mapper.map(cliente, ObterClienteDto.class));
+	}
+	
+	/*
+	 * Método auxiliar para consultar os clientes ativos de uma página
+	 */
+	private Flux<ObterClienteDto> consultarAtivos(Pageable pageable) {
+		
+		var mapper = new ModelMapper();
+		
+		return clienteReactiveRepository.findByAtivoTrue(pageable)
+				.map(cliente -> mapper.map(cliente, ObterClienteDto.class));
+	}
+	
+	/*
+	 * Método auxiliar para montar a paginação e a ordenação
+	 */
+	private Pageable getPageable(int page, int size, String sortBy, String direction) {
+		
+		var sort = direction.equalsIgnoreCase("desc")
+					? Sort.by(sortBy).descending()
+					: Sort.by(sortBy).ascending();
+		
+		return PageRequest.of(page, size, sort);
+	}
+	
+	/*
+	 * Método auxiliar que falha da mesma forma que o Optional.get()
+	 * da versão bloqueante quando o cliente não existe
+	 */
+	private Mono<Cliente> obterPorId(UUID id) {
+		return clienteReactiveRepository.findById(id)
+				.switchIfEmpty(Mono.error(() -> new NoSuchElementException("No value present")));
+	}
+	
+	/*
+	 * Método auxiliar para manter o CPF e o email únicos também
+	 * em relação aos clientes já movidos para a tabela de arquivo
+	 */
+	private Mono<Void> verificarArquivados(String cpf, String email) {
+		
+		var cpfArquivado = cpf != null
+				? clienteReactiveRepository.existsArquivadoByCpf(CPF_CONVERTER.convertToDatabaseColumn(cpf))
+				: Mono.just(false);
+		
+		var emailArquivado = email != null
+				? clienteReactiveRepository.existsArquivadoByEmailHash(EmailHashHelper.gerarHash(email))
+				: Mono.just(false);
+		
+		return cpfArquivado
+				.flatMap(existe -> existe
+						? Mono.<Boolean>error(new IllegalArgumentException("O CPF informado já está cadastrado."))
+						: emailArquivado)
+				.flatMap(existe -> existe
+						? Mono.<Void>error(new IllegalArgumentException("O email informado já está cadastrado."))
+						: Mono.<Void>empty());
+	}
+}
@@ -4,28 +4,36 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.com.cotiinformatica.domain.dtos.AlterarClienteDto;
 import br.com.cotiinformatica.domain.dtos.CriarClienteDto;
 import br.com.cotiinformatica.domain.dtos.ObterClienteDto;
 import br.com.cotiinformatica.domain.entities.Cliente;
+import br.com.cotiinformatica.domain.helpers.EmailHashHelper;
 import br.com.cotiinformatica.domain.interfaces.ClienteService;
+import br.com.cotiinformatica.infrastructure.repositories.ClienteArquivadoRepository;
 import br.com.cotiinformatica.infrastructure.repositories.ClienteRepository;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class ClienteServiceImpl implements ClienteService {
 
 	private final ClienteRepository clienteRepository;
+	private final ClienteArquivadoRepository clienteArquivadoRepository;
 
 	@Override
 	public ObterClienteDto criar(CriarClienteDto dto) {
 		
+		verificarArquivados(dto.getCpf(), dto.getEmail());
+		
 		var mapper = new ModelMapper();
 		
 		var cliente = mapper.map(dto, Cliente.class);
@@ -40,12 +48,17 @@ public class ClienteServiceImpl implements ClienteService {
 	}
 
 	@Override
+	@Transactional
 	public ObterClienteDto alterar(AlterarClienteDto dto) {
 		
 		var mapper = new ModelMapper();
 		
 		var cliente = clienteRepository.findById(dto.getId()).get();
 		
+		verificarArquivados(
+				dto.getCpf() != null && !dto.getCpf().equals(cliente.getCpf()) ? dto.getCpf() : null,
+				dto.getEmail() != null && !dto.getEmail().equals(cliente.getEmail()) ? dto.getEmail() : null);
+		
 		if(dto.getNome() != null) cliente.setNome(dto.getNome());
 		if(dto.getEmail() != null) cliente.setEmail(dto.getEmail());
 		if(dto.getCpf() != null) cliente.setCpf(dto.getCpf());
@@ -58,6 +71,7 @@ public class ClienteServiceImpl implements ClienteService {
 	}
 
 	@Override
+	@Transactional
 	public ObterClienteDto inativar(UUID id) {
 
 		var mapper = new ModelMapper();
@@ -65,6 +79,8 @@ public class ClienteServiceImpl implements ClienteService {
 		var cliente = clienteRepository.findById(id).get();		
 		
 		cliente.setAtivo(false);
+		cliente.setDataHoraInativacao(LocalDateTime.now());
+		cliente.setDataHoraUltimaAlteracao(LocalDateTime.now());
 		
 		clienteRepository.save(cliente);
 		
@@ -95,4 +111,18 @@ public class ClienteServiceImpl implements ClienteService {
 		
 		return mapper.map(cliente, ObterClienteDto.class);
 	}
+	
+	/*
+	 * Método auxiliar para manter o CPF e o email únicos também
+	 * em relação aos clientes já movidos para a tabela de arquivo.
+	 * Antecipa a mensagem de erro; a garantia é do trigger criado na migração V3.
+	 */
+	private void verificarArquivados(String cpf, String email) {
+		
+		if(cpf != null && clienteArquivadoRepository.existsByCpf(cpf))
+			throw new IllegalArgumentException("O CPF informado já está cadastrado.");
+		
+		if(email != null && clienteArquivadoRepository.existsByEmailHash(EmailHashHelper.gerarHash(email)))
+			throw new IllegalArgumentException("O email informado já está cadastrado.");
+	}
 }
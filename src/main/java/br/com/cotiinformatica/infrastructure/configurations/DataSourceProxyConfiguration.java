@@ -0,0 +1,86 @@
+package br.com.cotiinformatica.infrastructure.configurations;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/*
+ * Envolve o DataSource com o datasource-proxy para contar os comandos SQL
+ * de cada requisição (ver ContagemConsultasFilter) e registrar as consultas lentas.
+ */
+@Configuration
+@Profile("!reactive")
+public class DataSourceProxyConfiguration {
+
+	@Bean
+	public static BeanPostProcessor dataSourceProxyPostProcessor(
+			@Value("${clientes.consultas.lentas-ms}") long limiteConsultaLenta) {
+		
+		return new BeanPostProcessor() {
+			
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				
+				if(bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+					return ProxyDataSourceBuilder.create(dataSource)
+							.name(beanName)
+							.countQuery()
+							.listener(new ConsultaLentaListener(limiteConsultaLenta))
+							.build();
+				}
+				
+				return bean;
+			}
+		};
+	}
+	
+	/*
+	 * Registra as consultas acima do limite junto com o método da
+	 * camada de serviço que as originou
+	 */
+	@Slf4j
+	@RequiredArgsConstructor
+	static class ConsultaLentaListener implements QueryExecutionListener {
+		
+		private static final String PACOTE_SERVICOS = "br.com.cotiinformatica.domain.services.";
+		
+		private final long limiteConsultaLenta;
+		
+		@Override
+		public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		}
+
+		@Override
+		public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+			
+			if(execInfo.getElapsedTime() < limiteConsultaLenta) return;
+			
+			var consultas = queryInfoList.stream().map(QueryInfo::getQuery).toList();
+			
+			log.warn("Consulta lenta ({} ms) em {}: {}", execInfo.getElapsedTime(), obterMetodoDeOrigem(), consultas);
+		}
+		
+		private String obterMetodoDeOrigem() {
+			return StackWalker.getInstance().walk(frames -> frames
+					.filter(frame -> frame.getClassName().startsWith(PACOTE_SERVICOS))
+					.filter(frame -> !frame.getClassName().contains("$$"))
+					.map(frame -> frame.getClassName().substring(PACOTE_SERVICOS.length()) + "." + frame.getMethodName())
+					.findFirst()
+					.orElse("desconhecido"));
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package br.com.cotiinformatica.infrastructure.configurations;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import br.com.cotiinformatica.infrastructure.repositories.ClienteRepository;
+
+/*
+ * O Cliente é ao mesmo tempo @Entity (JPA) e entidade do R2DBC, então a
+ * varredura automática do JPA tentaria criar também o repositório reativo.
+ * Os repositórios JPA ficam restritos às interfaces bloqueantes.
+ */
+@Configuration
+@Profile("!reactive")
+@EnableJpaRepositories(
+		basePackageClasses = ClienteRepository.class,
+		excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ReactiveCrudRepository.class))
+public class JpaConfiguration {
+
+}
@@ -0,0 +1,59 @@
+package br.com.cotiinformatica.infrastructure.configurations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+
+import br.com.cotiinformatica.domain.converters.CpfConverter;
+import br.com.cotiinformatica.domain.entities.Cliente;
+import br.com.cotiinformatica.infrastructure.repositories.reactive.ClienteReactiveRepository;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Row;
+
+//Somente os repositórios do pacote 'reactive' são do R2DBC
+@Configuration
+@Profile("reactive")
+@EnableR2dbcRepositories(basePackageClasses = ClienteReactiveRepository.class)
+public class R2dbcConfiguration {
+
+	@Bean
+	public R2dbcCustomConversions r2dbcCustomConversions(ConnectionFactory connectionFactory) {
+		var dialect = DialectResolver.getDialect(connectionFactory);
+		return R2dbcCustomConversions.of(dialect, List.of(new ClienteReadingConverter()));
+	}
+	
+	/*
+	 * Leitura explícita do Cliente, para aplicar o CpfConverter (do JPA)
+	 * somente à coluna 'cpf', sem afetar outras colunas bigint
+	 */
+	@ReadingConverter
+	static class ClienteReadingConverter implements Converter<Row, Cliente> {
+		
+		private final CpfConverter cpfConverter = new CpfConverter();
+		
+		@Override
+		public Cliente convert(Row row) {
+			
+			var cliente = new Cliente();
+			cliente.setId(row.get("id", UUID.class));
+			cliente.setNome(row.get("nome", String.class));
+			cliente.setEmail(row.get("email", String.class));
+			cliente.setCpf(cpfConverter.convertToEntityAttribute(row.get("cpf", Long.class)));
+			cliente.setDataHoraCriacao(row.get("data_hora_criacao", LocalDateTime.class));
+			cliente.setDataHoraUltimaAlteracao(row.get("data_hora_ultima_alteracao", LocalDateTime.class));
+			cliente.setDataHoraInativacao(row.get("data_hora_inativacao", LocalDateTime.class));
+			cliente.setAtivo(row.get("ativo", Boolean.class));
+			
+			return cliente;
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package br.com.cotiinformatica.infrastructure.jobs;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import br.com.cotiinformatica.domain.interfaces.ClienteArquivamentoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Rotina que move, em lotes pequenos, os clientes inativos há mais
+ * de 'clientes.arquivamento.dias-inativo' dias para a tabela de arquivo.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "clientes.arquivamento.habilitado", havingValue = "true")
+public class ArquivamentoClientesJob {
+
+	private final ClienteArquivamentoService clienteArquivamentoService;
+	
+	@Value("${clientes.arquivamento.dias-inativo}")
+	private int diasInativo;
+	
+	@Value("${clientes.arquivamento.tamanho-lote}")
+	private int tamanhoLote;
+	
+	@Value("${clientes.arquivamento.pausa-entre-lotes-ms}")
+	private long pausaEntreLotes;
+	
+	@Scheduled(fixedDelayString = "${clientes.arquivamento.intervalo-ms}")
+	public void executar() throws InterruptedException {
+		
+		var limite = LocalDateTime.now().minusDays(diasInativo);
+		var total = 0;
+		
+		int arquivados;
+		do {
+			arquivados = clienteArquivamentoService.arquivarInativos(limite, tamanhoLote);
+			total += arquivados;
+			
+			//Pausa entre os lotes para não competir com o tráfego da API
+			if(arquivados == tamanhoLote) Thread.sleep(pausaEntreLotes);
+			
+		} while(arquivados == tamanhoLote);
+		
+		if(total > 0) log.info("Arquivamento concluído: {} cliente(s) movido(s) para cliente_arquivado.", total);
+	}
+}
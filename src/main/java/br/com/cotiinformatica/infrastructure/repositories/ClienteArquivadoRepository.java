@@ -0,0 +1,37 @@
+package br.com.cotiinformatica.infrastructure.repositories;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.cotiinformatica.domain.entities.ClienteArquivado;
+
+@Repository
+public interface ClienteArquivadoRepository extends JpaRepository<ClienteArquivado, UUID> {
+
+	//Verificar se já existe cliente arquivado com um Cpf
+	boolean existsByCpf(String cpf);
+	
+	//Verificar se já existe cliente arquivado com um email (através da chave gerada pelo EmailHashHelper)
+	boolean existsByEmailHash(byte[] emailHash);
+	
+	//Buscar cliente arquivado pelo Cpf
+	Optional<ClienteArquivado> findByCpf(String cpf);
+	
+	//Copiar um lote de clientes da tabela principal para a tabela de arquivo
+	@Modifying
+	@Query(value = """
+			INSERT INTO cliente_arquivado
+				(id, nome, email, email_hash, cpf, data_hora_criacao, data_hora_ultima_alteracao, data_hora_inativacao, data_hora_arquivamento)
+			SELECT id, nome, email, email_hash, cpf, data_hora_criacao, data_hora_ultima_alteracao, data_hora_inativacao, now()
+			FROM cliente
+			WHERE id IN (:ids)
+			""", nativeQuery = true)
+	int copiarDeClientes(@Param("ids") List<UUID> ids);
+}
@@ -1,11 +1,15 @@
 package br.com.cotiinformatica.infrastructure.repositories;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import br.com.cotiinformatica.domain.entities.Cliente;
@@ -16,15 +20,26 @@ public interface ClienteRepository extends JpaRepository<Cliente, UUID> {
 	//Verificar se já existe cliente com um Cpf
 	boolean existsByCpf(String cpf);
 		
-	//Verificar se já existe cliente com um email
-	boolean existsByEmail(String email);
+	//Verificar se já existe cliente com um email (através da chave gerada pelo EmailHashHelper)
+	boolean existsByEmailHash(byte[] emailHash);
 	
 	//Buscar cliente pelo Cpf
 	Optional<Cliente> findByCpf(String cpf);
 	
-	//Buscar cliente pelo Email
-	Optional<Cliente> findByEmail(String email);
+	//Buscar cliente pelo Email (através da chave gerada pelo EmailHashHelper)
+	Optional<Cliente> findByEmailHash(byte[] emailHash);
 	
 	//Buscar todos os clientes ativos com paginação
 	Page<Cliente> findByAtivoTrue(Pageable pageable);
+	
+	//Buscar e travar os IDs de clientes inativados antes da data limite,
+	//pulando as linhas já travadas por outra transação (outra instância ou uma alteração em andamento)
+	@Query(value = """
+			SELECT id FROM cliente
+			WHERE ativo = false AND data_hora_inativacao < :limite
+			ORDER BY data_hora_inativacao
+			LIMIT :tamanhoLote
+			FOR UPDATE SKIP LOCKED
+			""", nativeQuery = true)
+	List<UUID> findIdsInativosAntesDe(@Param("limite") LocalDateTime limite, @Param("tamanhoLote") int tamanhoLote);
 }
@@ -0,0 +1,30 @@
+package br.com.cotiinformatica.infrastructure.repositories.reactive;
+
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import br.com.cotiinformatica.domain.entities.Cliente;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ClienteReactiveRepository extends R2dbcRepository<Cliente, UUID>, ClienteReactiveRepositoryCustom {
+
+	//Verificar se já existe cliente arquivado com um Cpf
+	@Query("SELECT EXISTS(SELECT 1 FROM cliente_arquivado WHERE cpf = :cpf)")
+	Mono<Boolean> existsArquivadoByCpf(Long cpf);
+	
+	//Verificar se já existe cliente arquivado com um email (através da chave gerada pelo EmailHashHelper)
+	@Query("SELECT EXISTS(SELECT 1 FROM cliente_arquivado WHERE email_hash = :emailHash)")
+	Mono<Boolean> existsArquivadoByEmailHash(byte[] emailHash);
+	
+	//Buscar os clientes ativos de uma página
+	Flux<Cliente> findByAtivoTrue(Pageable pageable);
+	
+	//Contar os clientes ativos (total da paginação)
+	Mono<Long> countByAtivoTrue();
+}
@@ -0,0 +1,13 @@
+package br.com.cotiinformatica.infrastructure.repositories.reactive;
+
+import br.com.cotiinformatica.domain.entities.Cliente;
+import reactor.core.publisher.Mono;
+
+public interface ClienteReactiveRepositoryCustom {
+
+	//Inserir um cliente com o ID já gerado pela aplicação
+	Mono<Cliente> insert(Cliente cliente);
+	
+	//Atualizar os dados de um cliente existente
+	Mono<Cliente> update(Cliente cliente);
+}
@@ -0,0 +1,77 @@
+package br.com.cotiinformatica.infrastructure.repositories.reactive;
+
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+
+import br.com.cotiinformatica.domain.converters.CpfConverter;
+import br.com.cotiinformatica.domain.entities.Cliente;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/*
+ * O save() do R2DBC trata entidades com ID preenchido como UPDATE e não
+ * aplica o CpfConverter do JPA, por isso a escrita é feita com SQL explícito.
+ */
+@RequiredArgsConstructor
+public class ClienteReactiveRepositoryCustomImpl implements ClienteReactiveRepositoryCustom {
+
+	private static final CpfConverter CPF_CONVERTER = new CpfConverter();
+	
+	private final DatabaseClient databaseClient;
+	
+	@Override
+	public Mono<Cliente> insert(Cliente cliente) {
+		return databaseClient.sql("""
+				INSERT INTO cliente
+					(id, nome, email, email_hash, cpf, data_hora_criacao, data_hora_ultima_alteracao, ativo)
+				VALUES
+					(:id, :nome, :email, :emailHash, :cpf, :dataHoraCriacao, :dataHoraUltimaAlteracao, :ativo)
+				""")
+				.bind("id", cliente.getId())
+				.bind("nome", cliente.getNome())
+				.bind("email", cliente.getEmail())
+				.bind("emailHash", cliente.getEmailHash())
+				.bind("cpf", CPF_CONVERTER.convertToDatabaseColumn(cliente.getCpf()))
+				.bind("dataHoraCriacao", cliente.getDataHoraCriacao())
+				.bind("dataHoraUltimaAlteracao", cliente.getDataHoraUltimaAlteracao())
+				.bind("ativo", cliente.getAtivo())
+				.fetch()
+				.rowsUpdated()
+				.flatMap(linhas -> verificarLinhas(linhas, cliente));
+	}
+
+	@Override
+	public Mono<Cliente> update(Cliente cliente) {
+		return databaseClient.sql("""
+				UPDATE cliente SET
+					nome = :nome, email = :email, email_hash = :emailHash, cpf = :cpf,
+					data_hora_ultima_alteracao = :dataHoraUltimaAlteracao,
+					data_hora_inativacao = :dataHoraInativacao, ativo = :ativo
+				WHERE id = :id
+				""")
+				.bind("id", cliente.getId())
+				.bind("nome", cliente.getNome())
+				.bind("email", cliente.getEmail())
+				.bind("emailHash", cliente.getEmailHash())
+				.bind("cpf", CPF_CONVERTER.convertToDatabaseColumn(cliente.getCpf()))
+				.bind("dataHoraUltimaAlteracao", cliente.getDataHoraUltimaAlteracao())
+				.bind("dataHoraInativacao", Parameter.fromOrEmpty(cliente.getDataHoraInativacao(), LocalDateTime.class))
+				.bind("ativo", cliente.getAtivo())
+				.fetch()
+				.rowsUpdated()
+				.flatMap(linhas -> verificarLinhas(linhas, cliente));
+	}
+	
+	/*
+	 * Nenhuma linha afetada significa que o cliente deixou de existir
+	 * (arquivado entre a leitura e a escrita): falha como o obterPorId do serviço
+	 */
+	private Mono<Cliente> verificarLinhas(Long linhas, Cliente cliente) {
+		return linhas == 0
+				? Mono.error(() -> new NoSuchElementException("No value present"))
+				: Mono.just(cliente);
+	}
+}
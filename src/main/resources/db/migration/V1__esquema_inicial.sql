@@ -0,0 +1,25 @@
+-- Esquema anterior às migrações, até então criado pelo Hibernate (ddl-auto=update).
+-- Em bancos existentes as tabelas já existem e os comandos não fazem nada.
+
+CREATE TABLE IF NOT EXISTS cliente (
+	id uuid NOT NULL PRIMARY KEY,
+	nome varchar(150) NOT NULL,
+	email varchar(100) NOT NULL UNIQUE,
+	cpf varchar(11) NOT NULL UNIQUE,
+	data_hora_criacao timestamp(6),
+	data_hora_ultima_alteracao timestamp(6),
+	ativo boolean NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_cliente_ativo_ultima_alteracao
+	ON cliente (ativo, data_hora_ultima_alteracao);
+
+CREATE TABLE IF NOT EXISTS cliente_arquivado (
+	id uuid NOT NULL PRIMARY KEY,
+	nome varchar(150) NOT NULL,
+	email varchar(100) NOT NULL UNIQUE,
+	cpf varchar(11) NOT NULL UNIQUE,
+	data_hora_criacao timestamp(6),
+	data_hora_ultima_alteracao timestamp(6),
+	data_hora_arquivamento timestamp(6) NOT NULL
+);
@@ -0,0 +1,82 @@
+-- Converte o CPF de varchar(11) para bigint e troca a unicidade do email
+-- por uma chave SHA-256 (bytea de 32 bytes) do email normalizado.
+-- Tabelas que já estiverem no formato novo são mantidas como estão.
+
+DO $$
+DECLARE
+	tabela text;
+	restricao text;
+	convertidas text[] := ARRAY[]::text[];
+	conflitos text;
+BEGIN
+	-- 1. Converte o CPF e calcula a chave do email
+	FOREACH tabela IN ARRAY ARRAY['cliente', 'cliente_arquivado'] LOOP
+
+		CONTINUE WHEN NOT EXISTS (
+			SELECT 1 FROM information_schema.columns
+			WHERE table_schema = current_schema()
+				AND table_name = tabela
+				AND column_name = 'cpf'
+				AND data_type = 'character varying');
+
+		EXECUTE format('ALTER TABLE %I ALTER COLUMN cpf TYPE bigint USING cpf::bigint', tabela);
+
+		EXECUTE format('ALTER TABLE %I ADD COLUMN email_hash bytea', tabela);
+		-- Mesma normalização do EmailHashHelper: só espaços nas pontas e só A-Z em minúsculas
+		EXECUTE format('UPDATE %I SET email_hash = sha256(convert_to(translate(btrim(email, '' ''), '
+			|| '''ABCDEFGHIJKLMNOPQRSTUVWXYZ'', ''abcdefghijklmnopqrstuvwxyz''), ''UTF8''))', tabela);
+		EXECUTE format('ALTER TABLE %I ALTER COLUMN email_hash SET NOT NULL', tabela);
+
+		convertidas := convertidas || tabela;
+
+	END LOOP;
+
+	IF cardinality(convertidas) = 0 THEN
+		RETURN;
+	END IF;
+
+	-- 2. A unicidade antiga do email diferenciava maiúsculas e espaços, então emails
+	--    como 'Fulano@x.com' e 'fulano@x.com' podem coexistir e passam a ter a mesma chave.
+	--    Os conflitos precisam ser resolvidos à mão antes de a migração ser executada de novo.
+	SELECT string_agg(grupo, '; ') INTO conflitos
+	FROM (
+		SELECT string_agg(todos.tabela || ' ' || todos.id, ', ' ORDER BY todos.tabela, todos.id) AS grupo
+		FROM (
+			SELECT 'cliente' AS tabela, id, email_hash FROM cliente
+			UNION ALL
+			SELECT 'cliente_arquivado' AS tabela, id, email_hash FROM cliente_arquivado
+		) todos
+		GROUP BY todos.email_hash
+		HAVING count(*) > 1
+	) duplicados;
+
+	IF conflitos IS NOT NULL THEN
+		RAISE EXCEPTION 'Clientes com o mesmo email após a normalização (ajuste os emails e reinicie a aplicação): %', conflitos;
+	END IF;
+
+	SELECT string_agg('cliente ' || c.id || ', cliente_arquivado ' || a.id, '; ') INTO conflitos
+	FROM cliente c
+	JOIN cliente_arquivado a ON a.cpf = c.cpf;
+
+	IF conflitos IS NOT NULL THEN
+		RAISE EXCEPTION 'Clientes com o mesmo CPF na tabela principal e no arquivo (ajuste os CPFs e reinicie a aplicação): %', conflitos;
+	END IF;
+
+	-- 3. Troca a restrição de unicidade do email pela da chave
+	FOREACH tabela IN ARRAY convertidas LOOP
+
+		FOR restricao IN
+			SELECT con.conname
+			FROM pg_constraint con
+			JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = ANY (con.conkey)
+			WHERE con.conrelid = format('%I', tabela)::regclass
+				AND con.contype = 'u'
+				AND att.attname = 'email'
+		LOOP
+			EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', tabela, restricao);
+		END LOOP;
+
+		EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I UNIQUE (email_hash)', tabela, 'uk_' || tabela || '_email_hash');
+
+	END LOOP;
+END $$;
@@ -0,0 +1,38 @@
+-- Mantém CPF e email únicos entre 'cliente' e 'cliente_arquivado'.
+-- O trigger trava o CPF e o email da linha (advisory lock até o fim da transação)
+-- antes de procurar na outra tabela, assim um cadastro e o arquivamento do mesmo
+-- cliente nunca fazem a verificação ao mesmo tempo.
+
+CREATE OR REPLACE FUNCTION fn_unicidade_entre_cliente_e_arquivo() RETURNS trigger AS $$
+DECLARE
+	outra_tabela text := CASE TG_TABLE_NAME WHEN 'cliente' THEN 'cliente_arquivado' ELSE 'cliente' END;
+	existe boolean;
+BEGIN
+	IF TG_OP = 'UPDATE' AND NEW.cpf = OLD.cpf AND NEW.email_hash = OLD.email_hash THEN
+		RETURN NEW;
+	END IF;
+
+	-- Sempre CPF antes do email, na mesma ordem em todas as transações
+	PERFORM pg_advisory_xact_lock(NEW.cpf);
+	PERFORM pg_advisory_xact_lock(('x' || encode(substring(NEW.email_hash FROM 1 FOR 8), 'hex'))::bit(64)::bigint);
+
+	EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE (cpf = $1 OR email_hash = $2) AND id <> $3)', outra_tabela)
+		INTO existe
+		USING NEW.cpf, NEW.email_hash, NEW.id;
+
+	IF existe THEN
+		RAISE EXCEPTION 'CPF ou email do cliente % já cadastrado em %.', NEW.id, outra_tabela
+			USING ERRCODE = 'unique_violation';
+	END IF;
+
+	RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tg_cliente_unicidade
+	BEFORE INSERT OR UPDATE OF cpf, email_hash ON cliente
+	FOR EACH ROW EXECUTE FUNCTION fn_unicidade_entre_cliente_e_arquivo();
+
+CREATE TRIGGER tg_cliente_arquivado_unicidade
+	BEFORE INSERT OR UPDATE OF cpf, email_hash ON cliente_arquivado
+	FOR EACH ROW EXECUTE FUNCTION fn_unicidade_entre_cliente_e_arquivo();
@@ -0,0 +1,14 @@
+-- Data em que o cliente foi inativado, usada pelo arquivamento no lugar da
+-- data da última alteração (que também muda ao editar um cliente já inativo).
+
+ALTER TABLE cliente ADD COLUMN data_hora_inativacao timestamp(6);
+ALTER TABLE cliente_arquivado ADD COLUMN data_hora_inativacao timestamp(6);
+
+-- A data real da inativação dos clientes já inativos não é conhecida:
+-- a contagem do período de inatividade começa na data desta migração.
+UPDATE cliente SET data_hora_inativacao = LOCALTIMESTAMP WHERE ativo = false;
+
+DROP INDEX IF EXISTS idx_cliente_ativo_ultima_alteracao;
+
+CREATE INDEX idx_cliente_ativo_inativacao
+	ON cliente (ativo, data_hora_inativacao);
@@ -0,0 +1,45 @@
+package br.com.cotiinformatica.integration;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import br.com.cotiinformatica.domain.interfaces.ClienteService;
+import br.com.cotiinformatica.infrastructure.repositories.ClienteArquivadoRepository;
+import br.com.cotiinformatica.infrastructure.repositories.ClienteRepository;
+import br.com.cotiinformatica.infrastructure.repositories.reactive.ClienteReactiveRepository;
+
+/*
+ * Inicia a aplicação completa no profile padrão (MVC/JPA) contra um PostgreSQL real,
+ * com as migrações do Flyway e a validação do esquema pelo Hibernate.
+ */
+@SpringBootTest(properties = "clientes.arquivamento.habilitado=false")
+@Testcontainers
+public class ApiClientesApplicationTest {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+	@Autowired
+	private ApplicationContext context;
+
+	@Test
+	@DisplayName("Deve iniciar a aplicação somente com os repositórios JPA.")
+	public void contextLoads() {
+
+		assertNotNull(context.getBean(ClienteService.class));
+		assertNotNull(context.getBean(ClienteRepository.class));
+		assertNotNull(context.getBean(ClienteArquivadoRepository.class));
+		assertTrue(context.getBeansOfType(ClienteReactiveRepository.class).isEmpty());
+	}
+}
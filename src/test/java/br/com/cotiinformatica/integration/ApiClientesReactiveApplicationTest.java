@@ -0,0 +1,110 @@
+package br.com.cotiinformatica.integration;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import br.com.cotiinformatica.domain.dtos.CriarClienteDto;
+import br.com.cotiinformatica.domain.dtos.ObterClienteDto;
+import br.com.cotiinformatica.domain.entities.Cliente;
+import br.com.cotiinformatica.domain.interfaces.ClienteReactiveService;
+import br.com.cotiinformatica.infrastructure.repositories.ClienteRepository;
+import br.com.cotiinformatica.infrastructure.repositories.reactive.ClienteReactiveRepository;
+import reactor.test.StepVerifier;
+
+/*
+ * Inicia a aplicação completa no profile 'reactive' (WebFlux/R2DBC) contra um PostgreSQL real.
+ * O @ServiceConnection também publica a conexão JDBC, então o Flyway cria o esquema antes do teste.
+ */
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("reactive")
+@AutoConfigureWebTestClient
+@Testcontainers
+public class ApiClientesReactiveApplicationTest {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+	@Autowired
+	private ApplicationContext context;
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private ClienteReactiveRepository clienteReactiveRepository;
+
+	@Test
+	@DisplayName("Deve iniciar a aplicação somente com os repositórios R2DBC.")
+	public void contextLoads() {
+
+		assertNotNull(context.getBean(ClienteReactiveService.class));
+		assertNotNull(context.getBean(ClienteReactiveRepository.class));
+		assertTrue(context.getBeansOfType(ClienteRepository.class).isEmpty());
+	}
+
+	@Test
+	@DisplayName("POST e GET /api/v1/clientes (reactive) - Deve gravar e ler o cliente no banco.")
+	public void postAndGetClientes() {
+
+		var dto = new CriarClienteDto();
+		dto.setNome("Cliente Reativo");
+		dto.setEmail("reativo@teste.com");
+		dto.setCpf("00012345678");
+
+		var criado = webTestClient.post().uri("/api/v1/clientes")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(dto)
+				.exchange()
+				.expectStatus().isCreated()
+				.expectBody(ObterClienteDto.class)
+				.returnResult()
+				.getResponseBody();
+
+		assertNotNull(criado);
+
+		webTestClient.get().uri("/api/v1/clientes/{id}", criado.getId())
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.email").isEqualTo(dto.getEmail())
+				.jsonPath("$.cpf").isEqualTo(dto.getCpf());
+	}
+
+	@Test
+	@DisplayName("Deve falhar ao atualizar um cliente que não está mais na tabela (ex.: arquivado).")
+	public void updateClienteInexistenteFails() {
+
+		//Cliente lido antes de ser arquivado: o UPDATE não encontra a linha
+		var cliente = new Cliente();
+		cliente.setId(UUID.randomUUID());
+		cliente.setNome("Cliente Arquivado");
+		cliente.setEmail("arquivado@teste.com");
+		cliente.setCpf("00087654321");
+		cliente.setDataHoraCriacao(LocalDateTime.now());
+		cliente.setDataHoraUltimaAlteracao(LocalDateTime.now());
+		cliente.setAtivo(false);
+
+		StepVerifier.create(clienteReactiveRepository.update(cliente))
+				.expectError(NoSuchElementException.class)
+				.verify();
+	}
+}
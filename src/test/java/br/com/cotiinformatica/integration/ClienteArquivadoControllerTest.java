@@ -0,0 +1,102 @@
+package br.com.cotiinformatica.integration;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import br.com.cotiinformatica.application.ClienteArquivadoController;
+import br.com.cotiinformatica.domain.dtos.ObterClienteDto;
+import br.com.cotiinformatica.domain.interfaces.ClienteArquivamentoService;
+
+@WebMvcTest(controllers = ClienteArquivadoController.class)
+public class ClienteArquivadoControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private ClienteArquivamentoService clienteArquivamentoService;
+
+	@Test
+	@DisplayName("GET /api/v1/clientes-arquivados/{id} - Deve retornar 200 ao consultar 1 cliente arquivado por ID.")
+	public void getByIdClientesArquivadosReturnsOk() throws Exception {
+
+		//Criando o ID para enviar uma requisição GET de cliente arquivado
+		var id = UUID.randomUUID();
+
+		//Dados do cliente arquivado que deverá ser consultado
+		var response = getObterClienteDto(id);
+
+		//Mockando o comportamento da camada de serviço
+		when(clienteArquivamentoService.obterArquivadoPorId(id)).thenReturn(response);
+
+		//Executando a requisição para a API e verificando a resposta
+		mockMvc.perform(get("/api/v1/clientes-arquivados/{id}", id))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.id").value(id.toString()))
+				.andExpect(jsonPath("$.nome").value(response.getNome()))
+				.andExpect(jsonPath("$.email").value(response.getEmail()))
+				.andExpect(jsonPath("$.cpf").value(response.getCpf()));
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/clientes-arquivados/cpf/{cpf} - Deve retornar 200 ao consultar 1 cliente arquivado por CPF.")
+	public void getByCpfClientesArquivadosReturnsOk() throws Exception {
+
+		//Dados do cliente arquivado que deverá ser consultado
+		var response = getObterClienteDto(UUID.randomUUID());
+
+		//Mockando o comportamento da camada de serviço
+		when(clienteArquivamentoService.obterArquivadoPorCpf(response.getCpf())).thenReturn(response);
+
+		//Executando a requisição para a API e verificando a resposta
+		mockMvc.perform(get("/api/v1/clientes-arquivados/cpf/{cpf}", response.getCpf()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.id").value(response.getId().toString()))
+				.andExpect(jsonPath("$.nome").value(response.getNome()))
+				.andExpect(jsonPath("$.cpf").value(response.getCpf()));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "12345678", "123456789012", "abc12345678" })
+	@DisplayName("GET /api/v1/clientes-arquivados/cpf/{cpf} - Deve retornar 400 quando o CPF não tem 11 números.")
+	public void getByCpfClientesArquivadosReturnsBadRequest(String cpf) throws Exception {
+
+		mockMvc.perform(get("/api/v1/clientes-arquivados/cpf/{cpf}", cpf))
+				.andExpect(status().isBadRequest());
+
+		verify(clienteArquivamentoService, never()).obterArquivadoPorCpf(anyString());
+	}
+
+	/*
+	 * Método auxiliar para gerar os dados de um cliente arquivado
+	 */
+	private ObterClienteDto getObterClienteDto(UUID id) {
+
+		var response = new ObterClienteDto();
+		response.setId(id);
+		response.setNome("Cliente Arquivado");
+		response.setEmail("arquivado@teste.com");
+		response.setCpf("01234567890");
+		response.setDataHoraCriacao(LocalDateTime.now().minusYears(1));
+		response.setDataHoraUltimaAlteracao(LocalDateTime.now().minusDays(120));
+
+		return response;
+	}
+}
@@ -0,0 +1,170 @@
+package br.com.cotiinformatica.integration;
+
+import static br.com.cotiinformatica.integration.ContagemConsultasMatchers.maxConsultas;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.cotiinformatica.domain.dtos.AlterarClienteDto;
+import br.com.cotiinformatica.domain.dtos.CriarClienteDto;
+import br.com.cotiinformatica.domain.entities.Cliente;
+import br.com.cotiinformatica.infrastructure.repositories.ClienteRepository;
+
+/*
+ * Orçamento de comandos SQL por endpoint, medido contra um PostgreSQL real
+ * (Testcontainers) passando pelo ClienteServiceImpl e pelos repositórios.
+ * Cada limite é o número de comandos que o endpoint executa hoje:
+ * qualquer consulta a mais faz o teste falhar.
+ * Exige Docker: sem ele o teste falha em vez de ser ignorado.
+ */
+@SpringBootTest(properties = {
+		"clientes.consultas.headers-habilitados=true",
+		"clientes.arquivamento.habilitado=false"
+})
+@AutoConfigureMockMvc
+@Testcontainers
+public class ClienteControllerConsultasTest {
+
+	//2 verificações no arquivo + insert
+	private static final int MAX_CONSULTAS_POST = 3;
+	//findById + 2 verificações no arquivo + update
+	private static final int MAX_CONSULTAS_PATCH = 4;
+	//findById + update
+	private static final int MAX_CONSULTAS_DELETE = 2;
+	//página + count
+	private static final int MAX_CONSULTAS_GET_ALL = 2;
+	//findById
+	private static final int MAX_CONSULTAS_GET_BY_ID = 1;
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	private Cliente cliente;
+
+	@BeforeEach
+	public void setUp() {
+
+		//Dois clientes ativos para que a consulta paginada precise do count
+		cliente = criarCliente();
+		criarCliente();
+	}
+
+	@Test
+	@DisplayName("POST /api/v1/clientes - Deve cadastrar executando no máximo 3 comandos SQL.")
+	public void postClientesQueryBudget() throws Exception {
+
+		var dto = new CriarClienteDto();
+		dto.setNome("Cliente Consultas");
+		dto.setEmail(gerarEmail());
+		dto.setCpf(gerarCpf());
+
+		mockMvc.perform(post("/api/v1/clientes")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(dto)))
+				.andExpect(status().isCreated())
+				.andExpect(maxConsultas(MAX_CONSULTAS_POST));
+	}
+
+	@Test
+	@DisplayName("PATCH /api/v1/clientes - Deve atualizar CPF e email executando no máximo 4 comandos SQL.")
+	public void patchClientesQueryBudget() throws Exception {
+
+		var dto = new AlterarClienteDto();
+		dto.setId(cliente.getId());
+		dto.setNome("Cliente Alterado");
+		dto.setEmail(gerarEmail());
+		dto.setCpf(gerarCpf());
+
+		mockMvc.perform(patch("/api/v1/clientes")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(dto)))
+				.andExpect(status().isOk())
+				.andExpect(maxConsultas(MAX_CONSULTAS_PATCH))
+				.andExpect(jsonPath("$.cpf").value(dto.getCpf()));
+	}
+
+	@Test
+	@DisplayName("DELETE /api/v1/clientes - Deve inativar executando no máximo 2 comandos SQL.")
+	public void deleteClientesQueryBudget() throws Exception {
+
+		mockMvc.perform(delete("/api/v1/clientes/{id}", cliente.getId()))
+				.andExpect(status().isOk())
+				.andExpect(maxConsultas(MAX_CONSULTAS_DELETE));
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/clientes - Deve consultar a página executando no máximo 2 comandos SQL.")
+	public void getAllClientesQueryBudget() throws Exception {
+
+		mockMvc.perform(get("/api/v1/clientes")
+				.param("page", "0")
+				.param("size", "1")
+				.param("sortBy", "nome")
+				.param("direction", "asc"))
+				.andExpect(status().isOk())
+				.andExpect(maxConsultas(MAX_CONSULTAS_GET_ALL))
+				.andExpect(jsonPath("$.content.length()").value(1));
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/clientes - Deve consultar 1 cliente executando no máximo 1 comando SQL.")
+	public void getByIdClientesQueryBudget() throws Exception {
+
+		mockMvc.perform(get("/api/v1/clientes/{id}", cliente.getId()))
+				.andExpect(status().isOk())
+				.andExpect(maxConsultas(MAX_CONSULTAS_GET_BY_ID))
+				.andExpect(jsonPath("$.id").value(cliente.getId().toString()));
+	}
+
+	private Cliente criarCliente() {
+
+		var cliente = new Cliente();
+		cliente.setNome("Cliente Consultas");
+		cliente.setEmail(gerarEmail());
+		cliente.setCpf(gerarCpf());
+		cliente.setDataHoraCriacao(LocalDateTime.now());
+		cliente.setDataHoraUltimaAlteracao(LocalDateTime.now());
+		cliente.setAtivo(true);
+
+		return clienteRepository.save(cliente);
+	}
+
+	private String gerarEmail() {
+		return UUID.randomUUID() + "@teste.com";
+	}
+
+	private String gerarCpf() {
+		return String.format("%011d", Math.abs(UUID.randomUUID().getLeastSignificantBits() % 100_000_000_000L));
+	}
+}
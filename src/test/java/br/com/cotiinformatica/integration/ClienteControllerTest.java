@@ -6,6 +6,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -19,18 +20,21 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.cotiinformatica.application.ClienteController;
+import br.com.cotiinformatica.application.advices.ContagemConsultasAdvice;
 import br.com.cotiinformatica.domain.dtos.AlterarClienteDto;
 import br.com.cotiinformatica.domain.dtos.CriarClienteDto;
 import br.com.cotiinformatica.domain.dtos.ObterClienteDto;
 import br.com.cotiinformatica.domain.interfaces.ClienteService;
 
 @WebMvcTest(controllers = ClienteController.class)
+@TestPropertySource(properties = "clientes.consultas.headers-habilitados=true")
 public class ClienteControllerTest {
 
     @Autowired
@@ -184,4 +188,26 @@ public class ClienteControllerTest {
                 .andExpect(jsonPath("$.email").value(response.getEmail()))
         		.andExpect(jsonPath("$.cpf").value(response.getCpf()));
 	}
+
+	@Test
+	@DisplayName("GET /api/v1/clientes - Deve informar os comandos SQL executados quando habilitado.")
+	public void getByIdClientesReturnsQueryCountHeaders() throws Exception {
+		
+		//Os limites por endpoint são medidos no ClienteControllerConsultasTest;
+		//aqui só é verificado que o filtro e o advice estão registrados
+		var id = UUID.randomUUID();
+
+        var response = new ObterClienteDto();
+        response.setId(id);
+        response.setNome("Cliente Por ID");
+        response.setEmail("id@teste.com");
+        response.setCpf("55566677788");
+
+        when(clienteService.obterAtivoPorId(id)).thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/clientes/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ContagemConsultasAdvice.HEADER_QUANTIDADE, "0"))
+                .andExpect(header().exists(ContagemConsultasAdvice.HEADER_TEMPO));
+	}
 }
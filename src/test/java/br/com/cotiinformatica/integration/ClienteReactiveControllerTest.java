@@ -0,0 +1,210 @@
+package br.com.cotiinformatica.integration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import br.com.cotiinformatica.application.ClienteReactiveController;
+import br.com.cotiinformatica.domain.dtos.AlterarClienteDto;
+import br.com.cotiinformatica.domain.dtos.CriarClienteDto;
+import br.com.cotiinformatica.domain.dtos.ObterClienteDto;
+import br.com.cotiinformatica.domain.interfaces.ClienteReactiveService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@ActiveProfiles("reactive")
+@WebFluxTest(controllers = ClienteReactiveController.class)
+public class ClienteReactiveControllerTest {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@MockitoBean
+	private ClienteReactiveService clienteReactiveService;
+
+	@Test
+	@DisplayName("POST /api/v1/clientes (reactive) - Deve retornar 201 ao cadastrar.")
+	public void postClientesReturnsCreated() throws Exception {
+
+		//Criando o DTO para enviar uma requisição POST de cadastro de cliente
+		var dto = new CriarClienteDto();
+		dto.setNome("Fulano Teste");
+		dto.setEmail("fulano@teste.com");
+		dto.setCpf("12345678900");
+
+		//Definindo os dados que a API deverá retornar
+		var response = new ObterClienteDto();
+		response.setId(UUID.randomUUID());
+		response.setNome(dto.getNome());
+		response.setEmail(dto.getEmail());
+		response.setCpf(dto.getCpf());
+		response.setDataHoraCriacao(LocalDateTime.now());
+		response.setDataHoraUltimaAlteracao(LocalDateTime.now());
+
+		//Mockando o comportamento da camada de serviço
+		when(clienteReactiveService.criar(any(CriarClienteDto.class))).thenReturn(Mono.just(response));
+
+		//Executando a requisição para a API e verificando a resposta
+		webTestClient.post().uri("/api/v1/clientes")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(dto)
+				.exchange()
+				.expectStatus().isCreated()
+				.expectBody()
+				.jsonPath("$.nome").isEqualTo(response.getNome())
+				.jsonPath("$.email").isEqualTo(response.getEmail())
+				.jsonPath("$.cpf").isEqualTo(response.getCpf());
+	}
+
+	@Test
+	@DisplayName("PATCH /api/v1/clientes (reactive) - Deve retornar 200 ao atualizar.")
+	public void patchClientesReturnsOk() throws Exception {
+
+		//Criando o DTO para enviar uma requisição PATCH de edição de cliente
+		var dto = new AlterarClienteDto();
+		dto.setId(UUID.randomUUID());
+		dto.setNome("Novo Nome");
+		dto.setEmail("novo@teste.com");
+		dto.setCpf("98765432100");
+
+		//Definindo os dados que a API deverá retornar
+		var response = new ObterClienteDto();
+		response.setId(dto.getId());
+		response.setNome(dto.getNome());
+		response.setEmail(dto.getEmail());
+		response.setCpf(dto.getCpf());
+		response.setDataHoraCriacao(LocalDateTime.now().minusDays(1));
+		response.setDataHoraUltimaAlteracao(LocalDateTime.now());
+
+		//Mockando o comportamento da camada de serviço
+		when(clienteReactiveService.alterar(any(AlterarClienteDto.class))).thenReturn(Mono.just(response));
+
+		//Executando a requisição para a API e verificando a resposta
+		webTestClient.patch().uri("/api/v1/clientes")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(dto)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.nome").isEqualTo(response.getNome())
+				.jsonPath("$.email").isEqualTo(response.getEmail())
+				.jsonPath("$.cpf").isEqualTo(response.getCpf());
+	}
+
+	@Test
+	@DisplayName("DELETE /api/v1/clientes (reactive) - Deve retornar 200 ao excluir.")
+	public void deleteClientesReturnsOk() throws Exception {
+
+		//Criando o ID para enviar uma requisição DELETE de cliente
+		var id = UUID.randomUUID();
+
+		//Dados do cliente que deverá ser excluído
+		var response = new ObterClienteDto();
+		response.setId(id);
+		response.setNome("Cliente Inativo");
+		response.setEmail("inativo@teste.com");
+		response.setCpf("12345678900");
+
+		//Mockando o comportamento da camada de serviço
+		when(clienteReactiveService.inativar(id)).thenReturn(Mono.just(response));
+
+		//Executando a requisição para a API e verificando a resposta
+		webTestClient.delete().uri("/api/v1/clientes/{id}", id)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.nome").isEqualTo(response.getNome())
+				.jsonPath("$.email").isEqualTo(response.getEmail())
+				.jsonPath("$.cpf").isEqualTo(response.getCpf());
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/clientes (reactive) - Deve retornar 200 ao consultar todos, no mesmo formato paginado da versão MVC.")
+	public void getAllClientesReturnsOk() throws Exception {
+
+		//Dados do cliente que deverá ser consultado
+		var cliente = new ObterClienteDto();
+		cliente.setId(UUID.randomUUID());
+		cliente.setNome("Cliente Paginado");
+
+		//Definindo os parametros da paginação
+		Page<ObterClienteDto> page = new PageImpl<>(List.of(cliente), PageRequest.of(0, 10), 1);
+
+		//Mockando o comportamento da camada de serviço
+		when(clienteReactiveService.consultarAtivos(0, 10, "nome", "asc")).thenReturn(Mono.just(page));
+
+		//Executando a requisição para a API e verificando a resposta
+		webTestClient.get().uri("/api/v1/clientes?page=0&size=10&sortBy=nome&direction=asc")
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+				.expectBody()
+				.jsonPath("$.content[0].nome").isEqualTo("Cliente Paginado")
+				.jsonPath("$.totalElements").isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/clientes/fluxo (reactive) - Deve retornar os clientes em fluxo NDJSON.")
+	public void getAllClientesAsStreamReturnsNdjson() throws Exception {
+
+		//Dados dos clientes que deverão ser consultados
+		var primeiro = new ObterClienteDto();
+		primeiro.setId(UUID.randomUUID());
+		primeiro.setNome("Cliente Um");
+
+		var segundo = new ObterClienteDto();
+		segundo.setId(UUID.randomUUID());
+		segundo.setNome("Cliente Dois");
+
+		//Mockando o comportamento da camada de serviço
+		when(clienteReactiveService.consultarAtivosEmFluxo(0, 10, "nome", "asc")).thenReturn(Flux.just(primeiro, segundo));
+
+		//Executando a requisição para a API e verificando a resposta
+		webTestClient.get().uri("/api/v1/clientes/fluxo?page=0&size=10&sortBy=nome&direction=asc")
+				.accept(MediaType.APPLICATION_NDJSON)
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+				.expectBodyList(ObterClienteDto.class)
+				.hasSize(2);
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/clientes (reactive) - Deve retornar 200 ao consultar 1 cliente por ID.")
+	public void getByIdClientesReturnsOk() throws Exception {
+
+		//Criando o ID para enviar uma requisição GET de cliente
+		var id = UUID.randomUUID();
+
+		//Dados do cliente que deverá ser consultado
+		var response = new ObterClienteDto();
+		response.setId(id);
+		response.setNome("Cliente Por ID");
+
+		//Mockando o comportamento da camada de serviço
+		when(clienteReactiveService.obterAtivoPorId(id)).thenReturn(Mono.just(response));
+
+		//Executando a requisição para a API e verificando a resposta
+		webTestClient.get().uri("/api/v1/clientes/{id}", id)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.id").isEqualTo(id.toString())
+				.jsonPath("$.nome").isEqualTo(response.getNome());
+	}
+}
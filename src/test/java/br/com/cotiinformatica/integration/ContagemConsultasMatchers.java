@@ -0,0 +1,31 @@
+package br.com.cotiinformatica.integration;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import br.com.cotiinformatica.application.advices.ContagemConsultasAdvice;
+
+/*
+ * Verificações do número de comandos SQL executados por requisição,
+ * a partir do header escrito pelo ContagemConsultasAdvice
+ * (exige clientes.consultas.headers-habilitados=true).
+ */
+public final class ContagemConsultasMatchers {
+
+	private ContagemConsultasMatchers() {
+	}
+
+	public static ResultMatcher maxConsultas(int max) {
+		return result -> {
+
+			var header = result.getResponse().getHeader(ContagemConsultasAdvice.HEADER_QUANTIDADE);
+			assertNotNull(header, "Header " + ContagemConsultasAdvice.HEADER_QUANTIDADE + " ausente: o ContagemConsultasAdvice não foi aplicado.");
+
+			var total = Long.parseLong(header);
+			assertTrue(total <= max, () -> String.format(
+					"Esperado no máximo %d comando(s) SQL, mas foram executados %d.", max, total));
+		};
+	}
+}
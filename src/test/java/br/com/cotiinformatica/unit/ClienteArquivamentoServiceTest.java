@@ -0,0 +1,103 @@
+package br.com.cotiinformatica.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.cotiinformatica.domain.entities.ClienteArquivado;
+import br.com.cotiinformatica.domain.interfaces.ClienteArquivamentoService;
+import br.com.cotiinformatica.domain.services.ClienteArquivamentoServiceImpl;
+import br.com.cotiinformatica.infrastructure.repositories.ClienteArquivadoRepository;
+import br.com.cotiinformatica.infrastructure.repositories.ClienteRepository;
+
+public class ClienteArquivamentoServiceTest {
+
+	// Atributos
+	private ClienteRepository clienteRepository;
+	private ClienteArquivadoRepository clienteArquivadoRepository;
+	private ClienteArquivamentoService clienteArquivamentoService;
+
+	@BeforeEach
+	public void setUp() {
+
+		// Criando os mocks (simulações)
+		clienteRepository = mock(ClienteRepository.class);
+		clienteArquivadoRepository = mock(ClienteArquivadoRepository.class);
+
+		// Injeção de dependência da classe de serviço (que será testada)
+		clienteArquivamentoService = new ClienteArquivamentoServiceImpl(clienteRepository, clienteArquivadoRepository);
+	}
+
+	@Test
+	@DisplayName("Deve mover 1 lote de clientes inativos para a tabela de arquivo.")
+	public void deveArquivarLote() throws Exception {
+
+		// ARRANGE
+		var ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+		when(clienteRepository.findIdsInativosAntesDe(any(LocalDateTime.class), anyInt())).thenReturn(ids);
+		when(clienteArquivadoRepository.copiarDeClientes(ids)).thenReturn(ids.size());
+
+		// ACT
+		var arquivados = clienteArquivamentoService.arquivarInativos(LocalDateTime.now().minusDays(90), 500);
+
+		// ASSERT
+		assertEquals(2, arquivados);
+		verify(clienteArquivadoRepository).copiarDeClientes(ids);
+		verify(clienteRepository).deleteAllByIdInBatch(ids);
+	}
+
+	@Test
+	@DisplayName("Não deve executar comandos quando não houver clientes para arquivar.")
+	public void naoDeveArquivarSemClientes() throws Exception {
+
+		// ARRANGE
+		when(clienteRepository.findIdsInativosAntesDe(any(LocalDateTime.class), anyInt())).thenReturn(List.of());
+
+		// ACT
+		var arquivados = clienteArquivamentoService.arquivarInativos(LocalDateTime.now().minusDays(90), 500);
+
+		// ASSERT
+		assertEquals(0, arquivados);
+		verify(clienteArquivadoRepository, never()).copiarDeClientes(anyList());
+		verify(clienteRepository, never()).deleteAllByIdInBatch(anyList());
+	}
+
+	@Test
+	@DisplayName("Deve obter 1 cliente arquivado pelo CPF com sucesso.")
+	public void deveObterArquivadoPorCpf() throws Exception {
+
+		// ARRANGE
+		var cliente = new ClienteArquivado();
+		cliente.setId(UUID.randomUUID());
+		cliente.setNome("Cliente Arquivado");
+		cliente.setEmail("arquivado@teste.com");
+		cliente.setCpf("12345678900");
+		cliente.setDataHoraArquivamento(LocalDateTime.now());
+
+		when(clienteArquivadoRepository.findByCpf("12345678900")).thenReturn(Optional.of(cliente));
+
+		// ACT
+		var response = clienteArquivamentoService.obterArquivadoPorCpf("12345678900");
+
+		// ASSERT
+		assertNotNull(response);
+		assertEquals(cliente.getId(), response.getId());
+		assertEquals(cliente.getCpf(), response.getCpf());
+	}
+}
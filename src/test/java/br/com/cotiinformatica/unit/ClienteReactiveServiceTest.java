@@ -0,0 +1,376 @@
+package br.com.cotiinformatica.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import com.github.javafaker.Faker;
+
+import br.com.cotiinformatica.domain.converters.CpfConverter;
+import br.com.cotiinformatica.domain.dtos.AlterarClienteDto;
+import br.com.cotiinformatica.domain.dtos.CriarClienteDto;
+import br.com.cotiinformatica.domain.entities.Cliente;
+import br.com.cotiinformatica.domain.interfaces.ClienteReactiveService;
+import br.com.cotiinformatica.domain.services.ClienteReactiveServiceImpl;
+import br.com.cotiinformatica.infrastructure.repositories.reactive.ClienteReactiveRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+public class ClienteReactiveServiceTest {
+
+	// Atributos
+	private ClienteReactiveRepository clienteReactiveRepository;
+	private ClienteReactiveService clienteReactiveService;
+
+	@BeforeEach
+	public void setUp() {
+
+		// Criando os mocks (simulações)
+		clienteReactiveRepository = mock(ClienteReactiveRepository.class);
+
+		// Injeção de dependência da classe de serviço (que será testada)
+		clienteReactiveService = new ClienteReactiveServiceImpl(clienteReactiveRepository);
+
+		// Por padrão, nenhum CPF ou email está arquivado e a escrita devolve o próprio cliente
+		when(clienteReactiveRepository.existsArquivadoByCpf(anyLong())).thenReturn(Mono.just(false));
+		when(clienteReactiveRepository.existsArquivadoByEmailHash(any(byte[].class))).thenReturn(Mono.just(false));
+		when(clienteReactiveRepository.insert(any(Cliente.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+		when(clienteReactiveRepository.update(any(Cliente.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+	}
+
+	@Test
+	@DisplayName("Deve criar um cliente com sucesso.")
+	public void deveCriarCliente() throws Exception {
+
+		// ARRANGE
+		var dto = getCriarClienteDto();
+
+		// ACT & ASSERT
+		StepVerifier.create(clienteReactiveService.criar(dto))
+				.assertNext(response -> {
+					assertNotNull(response.getId());
+					assertEquals(dto.getNome(), response.getNome());
+					assertEquals(dto.getEmail(), response.getEmail());
+					assertEquals(dto.getCpf(), response.getCpf());
+					assertNotNull(response.getDataHoraCriacao());
+				})
+				.verifyComplete();
+
+		// O cadastro deve ser um INSERT, nunca um UPDATE
+		verify(clienteReactiveRepository).insert(any(Cliente.class));
+		verify(clienteReactiveRepository, never()).update(any(Cliente.class));
+	}
+
+	@Test
+	@DisplayName("Deve impedir o cadastro de um CPF que já está arquivado.")
+	public void naoDeveCriarClienteComCpfArquivado() throws Exception {
+
+		// ARRANGE
+		var dto = getCriarClienteDto();
+
+		when(clienteReactiveRepository.existsArquivadoByCpf(new CpfConverter().convertToDatabaseColumn(dto.getCpf()))).thenReturn(Mono.just(true));
+
+		// ACT & ASSERT
+		StepVerifier.create(clienteReactiveService.criar(dto))
+				.expectErrorMatches(e -> e instanceof IllegalArgumentException
+						&& e.getMessage().equals("O CPF informado já está cadastrado."))
+				.verify();
+
+		verify(clienteReactiveRepository, never()).insert(any(Cliente.class));
+	}
+
+	@Test
+	@DisplayName("Deve impedir o cadastro de um email que já está arquivado.")
+	public void naoDeveCriarClienteComEmailArquivado() throws Exception {
+
+		// ARRANGE
+		var dto = getCriarClienteDto();
+
+		when(clienteReactiveRepository.existsArquivadoByEmailHash(any(byte[].class))).thenReturn(Mono.just(true));
+
+		// ACT & ASSERT
+		StepVerifier.create(clienteReactiveService.criar(dto))
+				.expectErrorMatches(e -> e instanceof IllegalArgumentException
+						&& e.getMessage().equals("O email informado já está cadastrado."))
+				.verify();
+
+		verify(clienteReactiveRepository, never()).insert(any(Cliente.class));
+	}
+
+	@Test
+	@DisplayName("Deve atualizar um cliente com sucesso.")
+	public void deveAtualizarCliente() throws Exception {
+
+		// ARRANGE
+		var id = UUID.randomUUID();
+		var clienteExistente = getCliente(id);
+		var dto = getAlterarClienteDto(id);
+
+		when(clienteReactiveRepository.findById(id)).thenReturn(Mono.just(clienteExistente));
+
+		// ACT & ASSERT
+		StepVerifier.create(clienteReactiveService.alterar(dto))
+				.assertNext(response -> {
+					assertEquals(dto.getNome(), response.getNome());
+					assertEquals(dto.getEmail(), response.getEmail());
+					assertEquals(dto.getCpf(), response.getCpf());
+				})
+				.verifyComplete();
+
+		// A alteração deve ser um UPDATE, nunca um INSERT
+		verify(clienteReactiveRepository).update(clienteExistente);
+		verify(clienteReactiveRepository, never()).insert(any(Cliente.class));
+	}
+
+	@Test
+	@DisplayName("Não deve verificar o arquivo quando o CPF e o email não mudam.")
+	public void naoDeveVerificarArquivadosSemMudancaDeCpfEEmail() throws Exception {
+
+		// ARRANGE
+		var id = UUID.randomUUID();
+		var clienteExistente = getCliente(id);
+
+		var dto = new AlterarClienteDto();
+		dto.setId(id);
+		dto.setNome("Novo Nome do Cliente");
+		dto.setEmail(clienteExistente.getEmail());
+		dto.setCpf(clienteExistente.getCpf());
+
+		when(clienteReactiveRepository.findById(id)).thenReturn(Mono.just(clienteExistente));
+
+		// ACT & ASSERT
+		StepVerifier.create(clienteReactiveService.alterar(dto))
+				.assertNext(response -> assertEquals("Novo Nome do Cliente", response.getNome()))
+				.verifyComplete();
+
+		verify(clienteReactiveRepository, never()).existsArquivadoByCpf(anyLong());
+		verify(clienteReactiveRepository, never()).existsArquivadoByEmailHash(any(byte[].class));
+	}
+
+	@Test
+	@DisplayName("Deve inativar um cliente com sucesso.")
+	public void deveInativarCliente() throws Exception {
+
+		// ARRANGE
+		var id = UUID.randomUUID();
+		var cliente = getCliente(id);
+
+		when(clienteReactiveRepository.findById(id)).thenReturn(Mono.just(cliente));
+
+		// ACT & ASSERT
+		StepVerifier.create(clienteReactiveService.inativar(id))
+				.assertNext(response -> assertEquals(id, response.getId()))
+				.verifyComplete();
+
+		assertFalse(cliente.getAtivo());
+		assertNotNull(cliente.getDataHoraInativacao());
+		verify(clienteReactiveRepository).update(cliente);
+	}
+
+	@Test
+	@DisplayName("Deve falhar ao inativar um cliente que não existe.")
+	public void naoDeveInativarClienteInexistente() throws Exception {
+
+		// ARRANGE
+		var id = UUID.randomUUID();
+
+		when(clienteReactiveRepository.findById(id)).thenReturn(Mono.empty());
+
+		// ACT & ASSERT
+		StepVerifier.create(clienteReactiveService.inativar(id))
+				.expectError(NoSuchElementException.class)
+				.verify();
+
+		verify(clienteReactiveRepository, never()).update(any(Cliente.class));
+	}
+
+	@Test
+	@DisplayName("Deve consultar clientes de forma paginada sem contagem quando a página não está cheia.")
+	public void deveConsultarClientes() throws Exception {
+
+		// ARRANGE
+		var cliente = getCliente(UUID.randomUUID());
+
+		when(clienteReactiveRepository.findByAtivoTrue(any(Pageable.class))).thenReturn(Flux.just(cliente));
+
+		// ACT & ASSERT
+		StepVerifier.create(clienteReactiveService.consultarAtivos(0, 10, "nome", "asc"))
+				.assertNext(page -> {
+					assertEquals(1, page.getTotalElements());
+					assertEquals(cliente.getNome(), page.getContent().get(0).getNome());
+				})
+				.verifyComplete();
+
+		verify(clienteReactiveRepository, never()).countByAtivoTrue();
+	}
+
+	@Test
+	@DisplayName("Deve deduzir o total sem contagem na última página incompleta.")
+	public void deveConsultarUltimaPaginaSemContagem() throws Exception {
+
+		// ARRANGE
+		var cliente = getCliente(UUID.randomUUID());
+
+		when(clienteReactiveRepository.findByAtivoTrue(any(Pageable.class))).thenReturn(Flux.just(cliente));
+
+		// ACT & ASSERT
+		StepVerifier.create(clienteReactiveService.consultarAtivos(2, 10, "nome", "asc"))
+				.assertNext(page -> {
+					assertEquals(21, page.getTotalElements());
+					assertEquals(3, page.getTotalPages());
+				})
+				.verifyComplete();
+
+		verify(clienteReactiveRepository, never()).countByAtivoTrue();
+	}
+
+	@Test
+	@DisplayName("Deve consultar o total de clientes quando a página vem vazia depois da primeira.")
+	public void deveContarClientesComPaginaVazia() throws Exception {
+
+		// ARRANGE
+		when(clienteReactiveRepository.findByAtivoTrue(any(Pageable.class))).thenReturn(Flux.empty());
+		when(clienteReactiveRepository.countByAtivoTrue()).thenReturn(Mono.just(15L));
+
+		// ACT & ASSERT
+		StepVerifier.create(clienteReactiveService.consultarAtivos(5, 10, "nome", "asc"))
+				.assertNext(page -> assertEquals(15, page.getTotalElements()))
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve consultar o total de clientes quando a página está cheia.")
+	public void deveContarClientesComPaginaCheia() throws Exception {
+
+		// ARRANGE
+		var cliente = getCliente(UUID.randomUUID());
+
+		when(clienteReactiveRepository.findByAtivoTrue(any(Pageable.class))).thenReturn(Flux.just(cliente));
+		when(clienteReactiveRepository.countByAtivoTrue()).thenReturn(Mono.just(30L));
+
+		// ACT & ASSERT
+		StepVerifier.create(clienteReactiveService.consultarAtivos(0, 1, "nome", "asc"))
+				.assertNext(page -> {
+					assertEquals(30, page.getTotalElements());
+					assertEquals(30, page.getTotalPages());
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve consultar clientes em forma de fluxo.")
+	public void deveConsultarClientesEmFluxo() throws Exception {
+
+		// ARRANGE
+		when(clienteReactiveRepository.findByAtivoTrue(any(Pageable.class)))
+				.thenReturn(Flux.just(getCliente(UUID.randomUUID()), getCliente(UUID.randomUUID())));
+
+		// ACT & ASSERT
+		StepVerifier.create(clienteReactiveService.consultarAtivosEmFluxo(0, 10, "nome", "asc"))
+				.expectNextCount(2)
+				.verifyComplete();
+
+		verify(clienteReactiveRepository, never()).countByAtivoTrue();
+	}
+
+	@Test
+	@DisplayName("Deve obter 1 cliente pelo ID com sucesso.")
+	public void deveObterCliente() throws Exception {
+
+		// ARRANGE
+		var id = UUID.randomUUID();
+		var cliente = getCliente(id);
+
+		when(clienteReactiveRepository.findById(id)).thenReturn(Mono.just(cliente));
+
+		// ACT & ASSERT
+		StepVerifier.create(clienteReactiveService.obterAtivoPorId(id))
+				.assertNext(response -> {
+					assertEquals(cliente.getId(), response.getId());
+					assertEquals(cliente.getNome(), response.getNome());
+					assertEquals(cliente.getEmail(), response.getEmail());
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve falhar ao obter um cliente que não existe.")
+	public void naoDeveObterClienteInexistente() throws Exception {
+
+		// ARRANGE
+		var id = UUID.randomUUID();
+
+		when(clienteReactiveRepository.findById(id)).thenReturn(Mono.empty());
+
+		// ACT & ASSERT
+		StepVerifier.create(clienteReactiveService.obterAtivoPorId(id))
+				.expectError(NoSuchElementException.class)
+				.verify();
+	}
+
+	/*
+	 * Método auxiliar para gerar um objeto 'Cliente' ativo
+	 */
+	private Cliente getCliente(UUID id) {
+
+		var faker = new Faker();
+
+		var cliente = new Cliente();
+		cliente.setId(id);
+		cliente.setNome(faker.name().fullName());
+		cliente.setEmail(faker.internet().emailAddress());
+		cliente.setCpf(faker.number().digits(11));
+		cliente.setAtivo(true);
+		cliente.setDataHoraCriacao(LocalDateTime.now().minusDays(1));
+		cliente.setDataHoraUltimaAlteracao(LocalDateTime.now().minusDays(1));
+
+		return cliente;
+	}
+
+	/*
+	 * Método auxiliar para gerar um objeto 'CriarClienteDto'
+	 */
+	private CriarClienteDto getCriarClienteDto() {
+
+		var faker = new Faker();
+
+		var request = new CriarClienteDto();
+		request.setNome(faker.name().fullName());
+		request.setEmail(faker.internet().emailAddress());
+		request.setCpf(faker.number().digits(11));
+
+		return request;
+	}
+
+	/*
+	 * Método auxiliar para gerar um objeto 'AlterarClienteDto'
+	 */
+	private AlterarClienteDto getAlterarClienteDto(UUID id) {
+
+		var faker = new Faker();
+
+		var request = new AlterarClienteDto();
+		request.setId(id);
+		request.setNome(faker.name().fullName());
+		request.setEmail(faker.internet().emailAddress());
+		request.setCpf(faker.number().digits(11));
+
+		return request;
+	}
+}
@@ -3,8 +3,11 @@ package br.com.cotiinformatica.unit;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
@@ -26,12 +29,14 @@ import br.com.cotiinformatica.domain.dtos.CriarClienteDto;
 import br.com.cotiinformatica.domain.entities.Cliente;
 import br.com.cotiinformatica.domain.interfaces.ClienteService;
 import br.com.cotiinformatica.domain.services.ClienteServiceImpl;
+import br.com.cotiinformatica.infrastructure.repositories.ClienteArquivadoRepository;
 import br.com.cotiinformatica.infrastructure.repositories.ClienteRepository;
 
 public class ClienteServiceTest {
 
 	// Atributos
 	private ClienteRepository clienteRepository;
+	private ClienteArquivadoRepository clienteArquivadoRepository;
 	private ClienteService clienteService;
 
 	@BeforeEach
@@ -39,9 +44,10 @@ public class ClienteServiceTest {
 
 		// Criando os mocks (simulações)
 		clienteRepository = mock(ClienteRepository.class);
+		clienteArquivadoRepository = mock(ClienteArquivadoRepository.class);
 
 		// Injeção de dependência da classe de serviço (que será testada)
-		clienteService = new ClienteServiceImpl(clienteRepository);
+		clienteService = new ClienteServiceImpl(clienteRepository, clienteArquivadoRepository);
 	}
 
 	@Test
@@ -78,6 +84,20 @@ public class ClienteServiceTest {
 		assertNotNull(response.getDataHoraUltimaAlteracao());
 	}
 
+	@Test
+	@DisplayName("Deve impedir o cadastro de um CPF que já está arquivado.")
+	public void naoDeveCriarClienteComCpfArquivado() throws Exception {
+
+		// ARRANGE
+		var dto = getCriarClienteDto();
+
+		when(clienteArquivadoRepository.existsByCpf(dto.getCpf())).thenReturn(true);
+
+		// ACT & ASSERT
+		assertThrows(IllegalArgumentException.class, () -> clienteService.criar(dto));
+		verify(clienteRepository, never()).save(any(Cliente.class));
+	}
+
 	@Test
 	@DisplayName("Deve atualizar um cliente com sucesso.")
 	public void deveAtualizarCliente() throws Exception {
@@ -126,6 +146,36 @@ public class ClienteServiceTest {
 		// ASSERT
 		assertNotNull(response);
 		assertFalse(cliente.getAtivo());
+		assertNotNull(cliente.getDataHoraInativacao());
+	}
+
+	@Test
+	@DisplayName("Deve manter a data de inativação ao atualizar um cliente inativo.")
+	public void deveManterDataInativacaoAoAtualizar() throws Exception {
+
+		// ARRANGE
+		var id = UUID.randomUUID();
+		var dataHoraInativacao = LocalDateTime.now().minusDays(100);
+		var cliente = new Cliente();
+		cliente.setId(id);
+		cliente.setNome("Cliente Inativo");
+		cliente.setEmail("inativo@teste.com");
+		cliente.setCpf("12345678900");
+		cliente.setAtivo(false);
+		cliente.setDataHoraInativacao(dataHoraInativacao);
+
+		var dto = new AlterarClienteDto();
+		dto.setId(id);
+		dto.setNome("Cliente Inativo Alterado");
+
+		when(clienteRepository.findById(id)).thenReturn(Optional.of(cliente));
+		when(clienteRepository.save(any(Cliente.class))).thenReturn(cliente);
+
+		// ACT
+		clienteService.alterar(dto);
+
+		// ASSERT
+		assertEquals(dataHoraInativacao, cliente.getDataHoraInativacao());
 	}
 
 	@Test
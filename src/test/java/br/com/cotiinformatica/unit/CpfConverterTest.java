@@ -0,0 +1,44 @@
+package br.com.cotiinformatica.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.cotiinformatica.domain.converters.CpfConverter;
+
+public class CpfConverterTest {
+
+	private final CpfConverter cpfConverter = new CpfConverter();
+
+	@Test
+	@DisplayName("Deve gravar o CPF como número.")
+	public void deveConverterCpfParaNumero() throws Exception {
+
+		assertEquals(12345678900L, cpfConverter.convertToDatabaseColumn("12345678900"));
+	}
+
+	@Test
+	@DisplayName("Deve manter os zeros à esquerda ao ler o CPF.")
+	public void deveManterZerosAEsquerda() throws Exception {
+
+		// ARRANGE
+		var numero = cpfConverter.convertToDatabaseColumn("00123456789");
+
+		// ACT
+		var cpf = cpfConverter.convertToEntityAttribute(numero);
+
+		// ASSERT
+		assertEquals(123456789L, numero);
+		assertEquals("00123456789", cpf);
+	}
+
+	@Test
+	@DisplayName("Deve manter valores nulos.")
+	public void deveManterNulos() throws Exception {
+
+		assertNull(cpfConverter.convertToDatabaseColumn(null));
+		assertNull(cpfConverter.convertToEntityAttribute(null));
+	}
+}
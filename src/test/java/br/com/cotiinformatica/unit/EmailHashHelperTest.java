@@ -0,0 +1,84 @@
+package br.com.cotiinformatica.unit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.cotiinformatica.domain.entities.Cliente;
+import br.com.cotiinformatica.domain.helpers.EmailHashHelper;
+
+public class EmailHashHelperTest {
+
+	@Test
+	@DisplayName("Deve gerar uma chave de 32 bytes.")
+	public void deveGerarChaveDeTamanhoFixo() throws Exception {
+
+		assertEquals(32, EmailHashHelper.gerarHash("fulano@teste.com").length);
+	}
+
+	@Test
+	@DisplayName("Deve gerar a mesma chave para emails que diferem só em maiúsculas e espaços.")
+	public void deveNormalizarEmail() throws Exception {
+
+		assertArrayEquals(
+				EmailHashHelper.gerarHash("fulano@teste.com"),
+				EmailHashHelper.gerarHash("  Fulano@Teste.COM "));
+	}
+
+	@Test
+	@DisplayName("Deve gerar o mesmo valor que a expressão usada na migração do banco.")
+	public void deveGerarMesmoHashQueOBanco() throws Exception {
+
+		// sha256(convert_to('fulano@teste.com', 'UTF8')) no PostgreSQL
+		assertEquals("035bfbf9940c904e4510e6dd4557455300665a55cdec1902c99cde09e093cf4c",
+				HexFormat.of().formatHex(EmailHashHelper.gerarHash(" FULANO@teste.com  ")));
+	}
+
+	@Test
+	@DisplayName("Deve remover apenas espaços das pontas, assim como o btrim(email, ' ') do banco.")
+	public void deveRemoverApenasEspacos() throws Exception {
+
+		assertEquals("fulano@teste.com", EmailHashHelper.normalizar("  fulano@teste.com  "));
+		assertEquals("\tfulano@teste.com\r\n", EmailHashHelper.normalizar("\tfulano@teste.com\r\n"));
+		assertFalse(Arrays.equals(
+				EmailHashHelper.gerarHash("fulano@teste.com"),
+				EmailHashHelper.gerarHash("\tfulano@teste.com")));
+	}
+
+	@Test
+	@DisplayName("Deve converter para minúsculas apenas as letras A-Z, assim como o translate() do banco.")
+	public void deveConverterApenasLetrasAscii() throws Exception {
+
+		assertEquals("joão.élida@teste.com", EmailHashHelper.normalizar("JOãO.élida@Teste.COM"));
+		assertEquals("joÃo@teste.com", EmailHashHelper.normalizar("JOÃO@TESTE.COM"));
+	}
+
+	@Test
+	@DisplayName("Deve gerar chaves diferentes para emails diferentes.")
+	public void deveDiferenciarEmails() throws Exception {
+
+		assertFalse(Arrays.equals(
+				EmailHashHelper.gerarHash("fulano@teste.com"),
+				EmailHashHelper.gerarHash("ciclano@teste.com")));
+	}
+
+	@Test
+	@DisplayName("Deve atualizar a chave do cliente ao alterar o email.")
+	public void deveAtualizarChaveDoCliente() throws Exception {
+
+		// ARRANGE
+		var cliente = new Cliente();
+
+		// ACT
+		cliente.setEmail("fulano@teste.com");
+
+		// ASSERT
+		assertArrayEquals(EmailHashHelper.gerarHash("fulano@teste.com"), cliente.getEmailHash());
+	}
+}